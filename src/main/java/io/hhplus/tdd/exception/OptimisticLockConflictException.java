@@ -0,0 +1,7 @@
+package io.hhplus.tdd.exception;
+
+public class OptimisticLockConflictException extends RuntimeException {
+    public OptimisticLockConflictException(final String message) {
+        super(message);
+    }
+}
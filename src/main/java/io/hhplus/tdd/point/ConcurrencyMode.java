@@ -0,0 +1,11 @@
+package io.hhplus.tdd.point;
+
+
+/**
+ * 포인트 충전/사용의 동시성 제어 방식
+ * - PESSIMISTIC : 유저별 락을 잡고 처리
+ * - OPTIMISTIC : 버전을 읽어 계산한 뒤 compare-and-set 으로 반영, 충돌 시 재시도
+ */
+public enum ConcurrencyMode {
+    PESSIMISTIC, OPTIMISTIC
+}
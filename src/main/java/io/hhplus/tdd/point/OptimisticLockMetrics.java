@@ -0,0 +1,15 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 낙관적 동시성 제어의 누적 통계
+ * - conflicts : 버전 충돌 횟수 (일괄 처리는 유저 묶음 단위)
+ * - retries : 충돌 후 재시도 횟수 (일괄 처리는 유저 묶음 단위)
+ * - failures : 재시도 한도를 넘어 반영하지 못한 작업 수 (일괄 처리는 항목 단위)
+ */
+public record OptimisticLockMetrics(
+        ConcurrencyMode mode,
+        long conflicts,
+        long retries,
+        long failures
+) {
+}
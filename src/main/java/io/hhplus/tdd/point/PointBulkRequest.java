@@ -0,0 +1,10 @@
+package io.hhplus.tdd.point;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class PointBulkRequest {
+    private List<PointOperation> operations;
+}
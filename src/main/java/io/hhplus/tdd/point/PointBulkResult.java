@@ -0,0 +1,25 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.exception.ErrorResponse;
+
+/**
+ * 일괄 처리 요청의 단건 결과
+ * - 성공 시 userPoint 에 작업 직후의 잔고가, 실패 시 error 에 실패 사유가 담긴다.
+ */
+public record PointBulkResult(
+        long userId,
+        TransactionType type,
+        long amount,
+        UserPoint userPoint,
+        ErrorResponse error
+) {
+
+    public static PointBulkResult success(PointOperation operation, UserPoint userPoint) {
+        return new PointBulkResult(operation.userId(), operation.type(), operation.amount(), userPoint, null);
+    }
+
+    public static PointBulkResult failure(PointOperation operation, String code, String message) {
+        return new PointBulkResult(operation.userId(), operation.type(), operation.amount(), null,
+                new ErrorResponse(code, message));
+    }
+}
@@ -56,4 +56,22 @@ public class PointController {
     ) {
         return pointService.usePoint(id, pointUpdateRequest.getAmount());
     }
+
+    /**
+     * 현재 동시성 제어 방식과 낙관적 동시성 제어의 충돌/재시도 횟수를 조회합니다.
+     */
+    @GetMapping("concurrency")
+    public OptimisticLockMetrics concurrency() {
+        return pointService.getOptimisticLockMetrics();
+    }
+
+    /**
+     * 여러 유저의 포인트 충전/사용을 일괄 처리합니다.
+     */
+    @PostMapping("bulk")
+    public List<PointBulkResult> bulk(
+            @RequestBody PointBulkRequest pointBulkRequest
+    ) {
+        return pointService.bulkUpdatePoint(pointBulkRequest.getOperations());
+    }
 }
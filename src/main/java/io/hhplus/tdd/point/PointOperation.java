@@ -0,0 +1,11 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 일괄 처리 요청의 단건 포인트 작업
+ */
+public record PointOperation(
+        Long userId,
+        TransactionType type,
+        long amount
+) {
+}
@@ -2,60 +2,334 @@ package io.hhplus.tdd.point;
 
 import io.hhplus.tdd.database.PointHistoryTable;
 import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.exception.ErrorResponse;
 import io.hhplus.tdd.exception.MaxPointReachedException;
+import io.hhplus.tdd.exception.OptimisticLockConflictException;
 import io.hhplus.tdd.exception.PointInsufficientException;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 @Service
 @RequiredArgsConstructor
 public class PointService {
+    private static final Logger log = LoggerFactory.getLogger(PointService.class);
+    static final int MAX_OPTIMISTIC_ATTEMPTS = 20;
+    private static final long BASE_BACKOFF_MILLIS = 10L;
+    private static final long MAX_BACKOFF_MILLIS = 300L;
+    private static final int DEFAULT_BULK_PARALLELISM = 2;
+    private static final long BULK_SHUTDOWN_TIMEOUT_SECONDS = 30L;
+
     private final UserPointTable userPointTable;
     private final PointHistoryTable pointHistoryTable;
     private final Long MAX_POINT = 100000000L;
 
     private final ConcurrentHashMap<Long, Object> locks = new ConcurrentHashMap<>();
+    // Table 클래스는 thread-safe 하지 않으므로 Table 마다 호출을 한 번에 하나씩 수행한다.
+    // 락 순서는 항상 유저 락 -> Table 락이며, 두 Table 락을 동시에 잡지 않는다.
+    private final Object userPointLock = new Object();
+    private final Object pointHistoryLock = new Object();
+    private final UserPointVersions versions = new UserPointVersions();
+    private final LongAdder conflicts = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final ThreadPoolExecutor bulkExecutor = createBulkExecutor();
 
-    public synchronized UserPoint chargePoint(Long userId, Long amount) {
-        Object lock = locks.computeIfAbsent(userId, k -> new Object());
-        synchronized (lock) {
-            final UserPoint selectedUserPoint = userPointTable.selectById(userId);
-            final long resultPoint = selectedUserPoint.point() + amount;
-            if (resultPoint > MAX_POINT) {
-                throw new MaxPointReachedException("최대 포인트 충전량이 초과됩니다.");
+    @Value("${point.concurrency-mode:PESSIMISTIC}")
+    private volatile ConcurrencyMode concurrencyMode = ConcurrencyMode.PESSIMISTIC;
+
+    public UserPoint chargePoint(Long userId, Long amount) {
+        return execute(userId, selectedUserPoint -> {
+            final long resultPoint = charge(selectedUserPoint.point(), amount);
+            return () -> save(userId, resultPoint, amount, TransactionType.CHARGE);
+        });
+    }
+
+    public UserPoint usePoint(final long userId, final long amount) {
+        return execute(userId, selectedUserPoint -> {
+            final long balance = use(selectedUserPoint.point(), amount);
+            return () -> save(userId, balance, amount, TransactionType.USE);
+        });
+    }
+
+    /**
+     * 여러 유저의 충전/사용 작업을 일괄 처리한다.
+     * 유저별로 묶어 같은 유저의 작업은 요청 순서대로 처리하며, 잔고 조회와 저장은 유저마다 한 번씩만 수행한다.
+     * 실패한 작업은 해당 항목의 error 로 반환되고 나머지 작업은 계속 처리된다.
+     * <p>
+     * 유저 묶음은 bulkExecutor 에서 함께 진행되지만 Table 호출은 Table 마다 한 번에 하나씩만 수행되므로,
+     * 한 유저의 잔고 저장과 다른 유저의 내역 기록이 겹치는 정도만 병렬로 처리된다.
+     * 내역은 항목마다 기록되므로 전체 처리 시간은 가장 바쁜 유저가 아니라 전체 항목 수에 비례한다.
+     * 첫 번째 유저의 작업은 요청 스레드에서 직접 처리한다.
+     */
+    public List<PointBulkResult> bulkUpdatePoint(final List<PointOperation> operations) {
+        if (operations == null) {
+            throw new IllegalArgumentException("일괄 처리할 작업이 없습니다.");
+        }
+        if (operations.stream().anyMatch(operation -> operation == null || operation.userId() == null)) {
+            throw new IllegalArgumentException("유저 아이디가 없는 작업이 있습니다.");
+        }
+
+        final Map<Long, List<Integer>> indexesByUser = IntStream.range(0, operations.size())
+                .boxed()
+                .collect(Collectors.groupingBy(i -> operations.get(i).userId(), LinkedHashMap::new, Collectors.toList()));
+
+        final PointBulkResult[] results = new PointBulkResult[operations.size()];
+        final List<Map.Entry<Long, List<Integer>>> groups = new ArrayList<>(indexesByUser.entrySet());
+        final CompletableFuture<?>[] futures = groups.stream()
+                .skip(1)
+                .map(entry -> CompletableFuture.runAsync(
+                        () -> applyUserOperations(entry.getKey(), entry.getValue(), operations, results),
+                        bulkExecutor))
+                .toArray(CompletableFuture[]::new);
+        if (!groups.isEmpty()) {
+            applyUserOperations(groups.get(0).getKey(), groups.get(0).getValue(), operations, results);
+        }
+        CompletableFuture.allOf(futures).join();
+        return Arrays.asList(results);
+    }
+
+    public UserPoint getPoint(final long user_id) {
+        return selectUserPoint(user_id);
+    }
+
+    public List<PointHistory> getPointHistories(final long user_id) {
+        synchronized (pointHistoryLock) {
+            return pointHistoryTable.selectAllByUserId(user_id);
+        }
+    }
+
+    public OptimisticLockMetrics getOptimisticLockMetrics() {
+        return new OptimisticLockMetrics(concurrencyMode, conflicts.sum(), retries.sum(), failures.sum());
+    }
+
+    void changeConcurrencyMode(final ConcurrencyMode concurrencyMode) {
+        this.concurrencyMode = concurrencyMode;
+    }
+
+    @Value("${point.bulk-parallelism:" + DEFAULT_BULK_PARALLELISM + "}")
+    void changeBulkParallelism(final int bulkParallelism) {
+        if (bulkParallelism < 1) {
+            throw new IllegalArgumentException("일괄 처리 병렬도는 1 이상이어야 합니다.");
+        }
+        if (bulkParallelism > bulkExecutor.getMaximumPoolSize()) {
+            bulkExecutor.setMaximumPoolSize(bulkParallelism);
+            bulkExecutor.setCorePoolSize(bulkParallelism);
+        } else {
+            bulkExecutor.setCorePoolSize(bulkParallelism);
+            bulkExecutor.setMaximumPoolSize(bulkParallelism);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        bulkExecutor.shutdown();
+        if (!bulkExecutor.awaitTermination(BULK_SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            bulkExecutor.shutdownNow();
+        }
+    }
+
+    private static ThreadPoolExecutor createBulkExecutor() {
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                DEFAULT_BULK_PARALLELISM, DEFAULT_BULK_PARALLELISM,
+                60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private void applyUserOperations(final long userId, final List<Integer> indexes,
+                                     final List<PointOperation> operations, final PointBulkResult[] results) {
+        final Function<UserPoint, Supplier<Void>> transaction = selectedUserPoint -> {
+            long balance = selectedUserPoint.point();
+            final Map<Integer, Long> appliedBalances = new LinkedHashMap<>();
+            final Map<Integer, ErrorResponse> errors = new HashMap<>();
+            for (final int index : indexes) {
+                try {
+                    balance = apply(balance, operations.get(index));
+                    appliedBalances.put(index, balance);
+                } catch (MaxPointReachedException | PointInsufficientException e) {
+                    errors.put(index, new ErrorResponse("422", e.getMessage()));
+                } catch (IllegalArgumentException e) {
+                    errors.put(index, new ErrorResponse("400", e.getMessage()));
+                }
             }
-            final UserPoint userPoint = userPointTable.insertOrUpdate(userId, resultPoint);
-            pointHistoryTable.insert(userId, amount, TransactionType.CHARGE, userPoint.updateMillis());
-            return userPoint;
+
+            final long resultPoint = balance;
+            return () -> {
+                errors.forEach((index, error) ->
+                        results[index] = PointBulkResult.failure(operations.get(index), error.code(), error.message()));
+                if (appliedBalances.isEmpty()) {
+                    return null;
+                }
+                // 잔고가 저장되면 이력 기록이 실패하더라도 해당 작업들은 반영된 것으로 응답한다.
+                final UserPoint userPoint = insertOrUpdateUserPoint(userId, resultPoint);
+                appliedBalances.forEach((index, point) -> results[index] = PointBulkResult.success(
+                        operations.get(index), new UserPoint(userId, point, userPoint.updateMillis())));
+                appliedBalances.keySet().forEach(index -> {
+                    final PointOperation operation = operations.get(index);
+                    insertHistory(userId, operation.amount(), operation.type(), userPoint.updateMillis());
+                });
+                return null;
+            };
+        };
+
+        try {
+            if (concurrencyMode == ConcurrencyMode.OPTIMISTIC) {
+                executeOptimistically(userId, indexes.size(), transaction);
+            } else {
+                executePessimistically(userId, transaction);
+            }
+        } catch (OptimisticLockConflictException e) {
+            fillFailures(indexes, operations, results, "409", e.getMessage());
+        } catch (RuntimeException e) {
+            log.error("포인트 일괄 처리 중 오류가 발생했습니다. userId={}", userId, e);
+            fillFailures(indexes, operations, results, "500", "에러가 발생했습니다.");
         }
     }
 
-    public synchronized UserPoint usePoint(final long userId, final long amount) {
+    private void fillFailures(final List<Integer> indexes, final List<PointOperation> operations,
+                              final PointBulkResult[] results, final String code, final String message) {
+        for (final int index : indexes) {
+            if (results[index] == null) {
+                results[index] = PointBulkResult.failure(operations.get(index), code, message);
+            }
+        }
+    }
+
+    /**
+     * transaction 은 조회한 포인트로 계산만 수행하고, 반영은 반환한 Supplier 에서 수행한다.
+     * 두 방식 모두 Table 접근은 Table 락으로 보호되며, 유저 단위의 보호 방식만 다르다.
+     */
+    private <T> T execute(final long userId, final Function<UserPoint, Supplier<T>> transaction) {
+        if (concurrencyMode == ConcurrencyMode.OPTIMISTIC) {
+            return executeOptimistically(userId, 1, transaction);
+        }
+        return executePessimistically(userId, transaction);
+    }
 
+    private <T> T executePessimistically(final long userId, final Function<UserPoint, Supplier<T>> transaction) {
         Object lock = locks.computeIfAbsent(userId, k -> new Object());
         synchronized (lock) {
-            final UserPoint selectedUserPoint = userPointTable.selectById(userId);
-            final long existingPoint = selectedUserPoint.point();
-            if (amount > existingPoint) {
-                throw new PointInsufficientException("포인트가 부족합니다.");
+            return transaction.apply(selectUserPoint(userId)).get();
+        }
+    }
+
+    /**
+     * 버전을 읽고 계산한 뒤, 읽은 버전이 그대로일 때만 compare-and-set 으로 반영 권한(쓰기 래치)을 얻어 저장한다.
+     * 래치는 저장이 끝날 때까지 유지되므로 그동안 같은 유저의 다른 요청은 충돌로 보고 백오프한다.
+     * 충돌하면 지수 백오프 후 다시 읽어 계산하며, MAX_OPTIMISTIC_ATTEMPTS 번 모두 충돌하거나 백오프 중 인터럽트되면 실패한다.
+     * 실패 횟수는 operationCount 만큼, 즉 반영하지 못한 작업 수만큼 증가한다.
+     */
+    private <T> T executeOptimistically(final long userId, final int operationCount,
+                                        final Function<UserPoint, Supplier<T>> transaction) {
+        for (int attempt = 1; ; attempt++) {
+            final long version = versions.read(userId);
+            if (!versions.isWriting(version)) {
+                final Supplier<T> write = transaction.apply(selectUserPoint(userId));
+                if (versions.tryAcquire(userId, version)) {
+                    try {
+                        return write.get();
+                    } finally {
+                        versions.release(userId, version);
+                    }
+                }
             }
 
-            final long balance = existingPoint - amount;
-            final UserPoint userPoint = userPointTable.insertOrUpdate(userId, balance);
-            pointHistoryTable.insert(userId, amount, TransactionType.USE, userPoint.updateMillis());
-            return userPoint;
+            conflicts.increment();
+            if (attempt >= MAX_OPTIMISTIC_ATTEMPTS) {
+                failures.add(operationCount);
+                throw new OptimisticLockConflictException("동시 요청이 많아 포인트를 반영하지 못했습니다.");
+            }
+            retries.increment();
+            if (!backoff(attempt)) {
+                failures.add(operationCount);
+                throw new OptimisticLockConflictException("포인트 반영 재시도가 중단되었습니다.");
+            }
         }
     }
 
-    public UserPoint getPoint(final long user_id) {
-        return userPointTable.selectById(user_id);
+    /**
+     * 인터럽트되면 인터럽트 상태를 복구하고 false 를 반환한다.
+     */
+    private boolean backoff(final int attempt) {
+        final long ceiling = Math.min(MAX_BACKOFF_MILLIS, BASE_BACKOFF_MILLIS << Math.min(attempt, 10));
+        try {
+            TimeUnit.MILLISECONDS.sleep(ThreadLocalRandom.current().nextLong(ceiling / 2, ceiling + 1));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
     }
 
-    public List<PointHistory> getPointHistories(final long user_id) {
-        return pointHistoryTable.selectAllByUserId(user_id);
+    private UserPoint save(final long userId, final long point, final long amount, final TransactionType type) {
+        final UserPoint userPoint = insertOrUpdateUserPoint(userId, point);
+        insertHistory(userId, amount, type, userPoint.updateMillis());
+        return userPoint;
+    }
+
+    private UserPoint selectUserPoint(final long userId) {
+        synchronized (userPointLock) {
+            return userPointTable.selectById(userId);
+        }
+    }
+
+    private UserPoint insertOrUpdateUserPoint(final long userId, final long point) {
+        synchronized (userPointLock) {
+            return userPointTable.insertOrUpdate(userId, point);
+        }
+    }
+
+    private void insertHistory(final long userId, final long amount, final TransactionType type, final long updateMillis) {
+        synchronized (pointHistoryLock) {
+            pointHistoryTable.insert(userId, amount, type, updateMillis);
+        }
+    }
+
+    private long apply(final long existingPoint, final PointOperation operation) {
+        if (operation.type() == null) {
+            throw new IllegalArgumentException("포인트 거래 종류가 없습니다.");
+        }
+        return switch (operation.type()) {
+            case CHARGE -> charge(existingPoint, operation.amount());
+            case USE -> use(existingPoint, operation.amount());
+        };
+    }
+
+    private long charge(final long existingPoint, final long amount) {
+        final long resultPoint = existingPoint + amount;
+        if (resultPoint > MAX_POINT) {
+            throw new MaxPointReachedException("최대 포인트 충전량이 초과됩니다.");
+        }
+        return resultPoint;
+    }
+
+    private long use(final long existingPoint, final long amount) {
+        if (amount > existingPoint) {
+            throw new PointInsufficientException("포인트가 부족합니다.");
+        }
+        return existingPoint - amount;
     }
 
 }
@@ -0,0 +1,40 @@
+package io.hhplus.tdd.point;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 유저별 포인트 버전
+ * 짝수 버전은 반영이 끝난 상태, 홀수 버전은 다른 요청이 반영 중인 상태를 뜻한다.
+ * 읽은 버전이 그대로일 때만 compare-and-set 으로 반영 권한을 얻을 수 있다.
+ *
+ * 잔고는 버전을 저장할 수 없는 UserPointTable 에 있으므로 버전과 잔고를 한 번의 compare-and-set 으로 함께 바꿀 수 없다.
+ * 그래서 홀수 버전을 짧은 쓰기 래치로 사용한다. 래치를 잡은 요청만 잔고와 내역을 저장하고,
+ * 저장이 끝나면 다음 짝수 버전으로 올려 래치를 푼다. 래치가 없으면 먼저 커밋한 요청의 버전이 올라간 뒤
+ * 느린 저장이 끝나기 전에 다른 요청이 옛 잔고를 읽고 커밋하여 갱신이 유실될 수 있다.
+ * 래치가 잡혀 있는 동안 같은 유저의 다른 요청은 기다리지 않고 충돌로 보고 백오프 후 재시도한다.
+ */
+class UserPointVersions {
+    private static final long WRITING = -1L;
+
+    private final ConcurrentHashMap<Long, Long> versions = new ConcurrentHashMap<>();
+
+    /**
+     * 현재 버전을 읽는다. 다른 요청이 반영 중이면 WRITING 을 반환한다.
+     */
+    long read(final long userId) {
+        final long version = versions.computeIfAbsent(userId, k -> 0L);
+        return version % 2 == 0 ? version : WRITING;
+    }
+
+    boolean isWriting(final long version) {
+        return version == WRITING;
+    }
+
+    boolean tryAcquire(final long userId, final long version) {
+        return versions.replace(userId, version, version + 1);
+    }
+
+    void release(final long userId, final long version) {
+        versions.put(userId, version + 2);
+    }
+}
@@ -0,0 +1,130 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.exception.OptimisticLockConflictException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.LongSummaryStatistics;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 동시성 제어 방식별 처리 시간 비교
+ * ./gradlew benchmark 로 실행하며 기본 test 태스크에서는 제외된다.
+ * Table 의 지연 때문에 전체 실행에 수 분이 걸린다.
+ */
+@Tag("benchmark")
+class PointConcurrencyBenchmarkTest {
+
+    private static final int OPERATION_COUNT = 40;
+    private static final int LOW_CONTENTION_USER_COUNT = 10;
+    private static final int HIGH_CONTENTION_USER_COUNT = 1;
+    private static final int WARM_UP_RUNS = 1;
+    private static final int MEASURED_RUNS = 3;
+    private static final long CHARGE_AMOUNT = 100L;
+    private static final long USE_AMOUNT = 50L;
+    private static final long INITIAL_POINT = USE_AMOUNT * OPERATION_COUNT;
+
+    @DisplayName("여러 유저에게 충전/사용이 나뉘는 낮은 경합 환경")
+    @ParameterizedTest
+    @EnumSource(ConcurrencyMode.class)
+    void lowContention(ConcurrencyMode mode) throws InterruptedException {
+        benchmark(mode, "low", LOW_CONTENTION_USER_COUNT);
+    }
+
+    @DisplayName("한 유저에게 충전/사용이 몰리는 높은 경합 환경")
+    @ParameterizedTest
+    @EnumSource(ConcurrencyMode.class)
+    void highContention(ConcurrencyMode mode) throws InterruptedException {
+        benchmark(mode, "high", HIGH_CONTENTION_USER_COUNT);
+    }
+
+    private void benchmark(ConcurrencyMode mode, String contention, int userCount) throws InterruptedException {
+        for (int i = 0; i < WARM_UP_RUNS; i++) {
+            run(mode, contention, userCount);
+        }
+        final List<Long> elapsedMillis = new ArrayList<>();
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            elapsedMillis.add(run(mode, contention, userCount));
+        }
+
+        final LongSummaryStatistics statistics = elapsedMillis.stream().mapToLong(Long::longValue).summaryStatistics();
+        System.out.printf("[benchmark] mode=%s contention=%s runs=%d avg=%.0fms min=%dms max=%dms%n",
+                mode, contention, MEASURED_RUNS, statistics.getAverage(), statistics.getMin(), statistics.getMax());
+    }
+
+    private long run(ConcurrencyMode mode, String contention, int userCount) throws InterruptedException {
+        // given
+        final PointService pointService = new PointService(new UserPointTable(), new PointHistoryTable());
+        pointService.changeConcurrencyMode(mode);
+        final List<Long> userIds = LongStream.rangeClosed(1, userCount).boxed().toList();
+        pointService.bulkUpdatePoint(userIds.stream()
+                .map(userId -> new PointOperation(userId, TransactionType.CHARGE, INITIAL_POINT))
+                .toList());
+        final OptimisticLockMetrics before = pointService.getOptimisticLockMetrics();
+
+        final ExecutorService executorService = Executors.newFixedThreadPool(OPERATION_COUNT);
+        final CountDownLatch latch = new CountDownLatch(OPERATION_COUNT);
+        final AtomicInteger charged = new AtomicInteger();
+        final AtomicInteger used = new AtomicInteger();
+        final AtomicInteger conflictFailed = new AtomicInteger();
+        final AtomicInteger unexpectedFailed = new AtomicInteger();
+
+        // when
+        final long startNanos = System.nanoTime();
+        for (int i = 0; i < OPERATION_COUNT; i++) {
+            final long userId = userIds.get(i % userCount);
+            final boolean charge = i % 2 == 0;
+            executorService.submit(() -> {
+                try {
+                    if (charge) {
+                        pointService.chargePoint(userId, CHARGE_AMOUNT);
+                        charged.incrementAndGet();
+                    } else {
+                        pointService.usePoint(userId, USE_AMOUNT);
+                        used.incrementAndGet();
+                    }
+                } catch (OptimisticLockConflictException e) {
+                    conflictFailed.incrementAndGet();
+                } catch (RuntimeException e) {
+                    unexpectedFailed.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        final long elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000;
+        executorService.shutdown();
+
+        // then
+        final long totalPoint = userIds.stream().mapToLong(userId -> pointService.getPoint(userId).point()).sum();
+        final long totalHistories = userIds.stream().mapToLong(userId -> pointService.getPointHistories(userId).size()).sum();
+        assertEquals(0, unexpectedFailed.get());
+        assertEquals(OPERATION_COUNT, charged.get() + used.get() + conflictFailed.get());
+        assertEquals(INITIAL_POINT * userCount + CHARGE_AMOUNT * charged.get() - USE_AMOUNT * used.get(), totalPoint);
+        assertEquals(userCount + charged.get() + used.get(), totalHistories);
+        if (mode == ConcurrencyMode.PESSIMISTIC) {
+            assertEquals(0, conflictFailed.get());
+        }
+
+        final OptimisticLockMetrics after = pointService.getOptimisticLockMetrics();
+        assertEquals(conflictFailed.get(), after.failures() - before.failures());
+        System.out.printf("[benchmark] mode=%s contention=%s operations=%d elapsed=%dms failed=%d conflicts=%d retries=%d%n",
+                mode, contention, OPERATION_COUNT, elapsedMillis, conflictFailed.get(),
+                after.conflicts() - before.conflicts(), after.retries() - before.retries());
+        pointService.shutdown();
+        return elapsedMillis;
+    }
+}
@@ -3,6 +3,7 @@ package io.hhplus.tdd.point;
 import io.hhplus.tdd.database.PointHistoryTable;
 import io.hhplus.tdd.database.UserPointTable;
 import io.hhplus.tdd.exception.MaxPointReachedException;
+import io.hhplus.tdd.exception.OptimisticLockConflictException;
 import io.hhplus.tdd.exception.PointInsufficientException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -10,6 +11,8 @@ import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.catchThrowable;
@@ -184,6 +187,185 @@ class PointServiceTest {
         verify(pointHistoryTable).selectAllByUserId(USER_ID);
     }
 
+    @DisplayName("일괄 처리 시 같은 유저의 작업은 순서대로 반영되고 잔고 조회와 저장은 한 번씩만 수행된다.")
+    @Test
+    void bulkUpdatePointSameUser() {
+        // given
+        final long expectedBalance = INITIAL_POINT + 200L - 50L;
+        initialUserPoint = new UserPoint(USER_ID, INITIAL_POINT, UPDATE_MILLIS);
+        when(userPointTable.selectById(USER_ID)).thenReturn(initialUserPoint);
+        when(userPointTable.insertOrUpdate(USER_ID, expectedBalance))
+                .thenReturn(new UserPoint(USER_ID, expectedBalance, UPDATE_MILLIS));
+        final List<PointOperation> operations = List.of(
+                new PointOperation(USER_ID, TransactionType.CHARGE, 200L),
+                new PointOperation(USER_ID, TransactionType.USE, 50L)
+        );
+
+        // when
+        final List<PointBulkResult> results = pointService.bulkUpdatePoint(operations);
+
+        // then
+        assertThat(results.get(0).userPoint().point()).isEqualTo(INITIAL_POINT + 200L);
+        assertThat(results.get(1).userPoint().point()).isEqualTo(expectedBalance);
+        verify(userPointTable).selectById(USER_ID);
+        verify(userPointTable).insertOrUpdate(USER_ID, expectedBalance);
+        verify(pointHistoryTable).insert(USER_ID, 200L, TransactionType.CHARGE, UPDATE_MILLIS);
+        verify(pointHistoryTable).insert(USER_ID, 50L, TransactionType.USE, UPDATE_MILLIS);
+    }
+
+    @DisplayName("일괄 처리 중 실패한 작업은 해당 항목에만 에러가 담기고 나머지 작업은 반영된다.")
+    @Test
+    void bulkUpdatePointPartialFailure() {
+        // given
+        final long otherUserId = USER_ID + 1;
+        initialUserPoint = new UserPoint(USER_ID, INITIAL_POINT, UPDATE_MILLIS);
+        when(userPointTable.selectById(USER_ID)).thenReturn(initialUserPoint);
+        when(userPointTable.selectById(otherUserId)).thenReturn(UserPoint.empty(otherUserId));
+        when(userPointTable.insertOrUpdate(USER_ID, INITIAL_POINT - 30L))
+                .thenReturn(new UserPoint(USER_ID, INITIAL_POINT - 30L, UPDATE_MILLIS));
+        final List<PointOperation> operations = List.of(
+                new PointOperation(USER_ID, TransactionType.USE, 200L),
+                new PointOperation(otherUserId, TransactionType.USE, 10L),
+                new PointOperation(USER_ID, TransactionType.USE, 30L)
+        );
+
+        // when
+        final List<PointBulkResult> results = pointService.bulkUpdatePoint(operations);
+
+        // then
+        assertThat(results.get(0).error().code()).isEqualTo("422");
+        assertThat(results.get(0).error().message()).isEqualTo("포인트가 부족합니다.");
+        assertThat(results.get(1).error().code()).isEqualTo("422");
+        assertThat(results.get(2).error()).isNull();
+        assertThat(results.get(2).userPoint().point()).isEqualTo(INITIAL_POINT - 30L);
+        verify(userPointTable, never()).insertOrUpdate(eq(otherUserId), anyLong());
+        verify(pointHistoryTable).insert(USER_ID, 30L, TransactionType.USE, UPDATE_MILLIS);
+    }
+
+    @DisplayName("일괄 처리 요청에 유저 아이디가 없는 작업이 있으면 IllegalArgumentException 예외가 발생한다.")
+    @Test
+    void bulkUpdatePointWithoutUserId() {
+        // given
+        final List<PointOperation> operations = Arrays.asList(
+                new PointOperation(USER_ID, TransactionType.CHARGE, 100L),
+                new PointOperation(null, TransactionType.CHARGE, 100L)
+        );
+
+        // when
+        final Throwable throwable = catchThrowable(() -> pointService.bulkUpdatePoint(operations));
+
+        // then
+        assertThat(throwable)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("유저 아이디가 없는 작업이 있습니다.");
+        verifyNoInteractions(userPointTable, pointHistoryTable);
+    }
+
+    @DisplayName("낙관적 모드에서 계산 중 다른 요청이 먼저 반영되면 충돌로 보고 다시 읽어 반영한다.")
+    @Test
+    void chargePointOptimisticRetryOnConflict() {
+        // given
+        pointService.changeConcurrencyMode(ConcurrencyMode.OPTIMISTIC);
+        final AtomicBoolean interrupted = new AtomicBoolean(false);
+        final AtomicLong storedPoint = new AtomicLong(INITIAL_POINT);
+        when(userPointTable.selectById(USER_ID)).thenAnswer(invocation -> {
+            final UserPoint selected = new UserPoint(USER_ID, storedPoint.get(), UPDATE_MILLIS);
+            if (interrupted.compareAndSet(false, true)) {
+                pointService.chargePoint(USER_ID, 10L);
+            }
+            return selected;
+        });
+        when(userPointTable.insertOrUpdate(eq(USER_ID), anyLong())).thenAnswer(invocation -> {
+            storedPoint.set(invocation.getArgument(1));
+            return new UserPoint(USER_ID, storedPoint.get(), UPDATE_MILLIS);
+        });
+
+        // when
+        final UserPoint userPoint = pointService.chargePoint(USER_ID, 100L);
+
+        // then
+        assertThat(userPoint.point()).isEqualTo(INITIAL_POINT + 10L + 100L);
+        final OptimisticLockMetrics metrics = pointService.getOptimisticLockMetrics();
+        assertThat(metrics.conflicts()).isEqualTo(1L);
+        assertThat(metrics.retries()).isEqualTo(1L);
+        assertThat(metrics.failures()).isEqualTo(0L);
+        verify(userPointTable, times(2)).insertOrUpdate(eq(USER_ID), anyLong());
+    }
+
+    @DisplayName("낙관적 모드에서 재시도 한도까지 모두 충돌하면 OptimisticLockConflictException 예외가 발생하고 실패 횟수가 기록된다.")
+    @Test
+    void chargePointOptimisticConflictExhausted() {
+        // given
+        pointService.changeConcurrencyMode(ConcurrencyMode.OPTIMISTIC);
+        final AtomicBoolean nested = new AtomicBoolean(false);
+        final AtomicLong storedPoint = new AtomicLong(INITIAL_POINT);
+        when(userPointTable.selectById(USER_ID)).thenAnswer(invocation -> {
+            final UserPoint selected = new UserPoint(USER_ID, storedPoint.get(), UPDATE_MILLIS);
+            if (nested.compareAndSet(false, true)) {
+                try {
+                    pointService.chargePoint(USER_ID, 1L);
+                } finally {
+                    nested.set(false);
+                }
+            }
+            return selected;
+        });
+        when(userPointTable.insertOrUpdate(eq(USER_ID), anyLong())).thenAnswer(invocation -> {
+            storedPoint.set(invocation.getArgument(1));
+            return new UserPoint(USER_ID, storedPoint.get(), UPDATE_MILLIS);
+        });
+
+        // when
+        final Throwable throwable = catchThrowable(() -> pointService.chargePoint(USER_ID, 100L));
+
+        // then
+        assertThat(throwable)
+                .isInstanceOf(OptimisticLockConflictException.class)
+                .hasMessageContaining("동시 요청이 많아 포인트를 반영하지 못했습니다.");
+        final OptimisticLockMetrics metrics = pointService.getOptimisticLockMetrics();
+        assertThat(metrics.conflicts()).isEqualTo((long) PointService.MAX_OPTIMISTIC_ATTEMPTS);
+        assertThat(metrics.retries()).isEqualTo((long) PointService.MAX_OPTIMISTIC_ATTEMPTS - 1);
+        assertThat(metrics.failures()).isEqualTo(1L);
+        assertThat(storedPoint.get()).isEqualTo(INITIAL_POINT + PointService.MAX_OPTIMISTIC_ATTEMPTS);
+    }
+
+    @DisplayName("낙관적 모드의 일괄 처리도 충돌하면 다시 읽어 같은 유저의 작업을 순서대로 한 번만 반영한다.")
+    @Test
+    void bulkUpdatePointOptimisticRetryOnConflict() {
+        // given
+        pointService.changeConcurrencyMode(ConcurrencyMode.OPTIMISTIC);
+        final AtomicBoolean interrupted = new AtomicBoolean(false);
+        final AtomicLong storedPoint = new AtomicLong(INITIAL_POINT);
+        when(userPointTable.selectById(USER_ID)).thenAnswer(invocation -> {
+            final UserPoint selected = new UserPoint(USER_ID, storedPoint.get(), UPDATE_MILLIS);
+            if (interrupted.compareAndSet(false, true)) {
+                pointService.chargePoint(USER_ID, 10L);
+            }
+            return selected;
+        });
+        when(userPointTable.insertOrUpdate(eq(USER_ID), anyLong())).thenAnswer(invocation -> {
+            storedPoint.set(invocation.getArgument(1));
+            return new UserPoint(USER_ID, storedPoint.get(), UPDATE_MILLIS);
+        });
+        final List<PointOperation> operations = List.of(
+                new PointOperation(USER_ID, TransactionType.CHARGE, 200L),
+                new PointOperation(USER_ID, TransactionType.USE, 50L)
+        );
+
+        // when
+        final List<PointBulkResult> results = pointService.bulkUpdatePoint(operations);
+
+        // then
+        assertThat(results.get(0).userPoint().point()).isEqualTo(INITIAL_POINT + 10L + 200L);
+        assertThat(results.get(1).userPoint().point()).isEqualTo(INITIAL_POINT + 10L + 200L - 50L);
+        final OptimisticLockMetrics metrics = pointService.getOptimisticLockMetrics();
+        assertThat(metrics.conflicts()).isEqualTo(1L);
+        assertThat(metrics.retries()).isEqualTo(1L);
+        assertThat(metrics.failures()).isEqualTo(0L);
+        verify(pointHistoryTable).insert(USER_ID, 200L, TransactionType.CHARGE, UPDATE_MILLIS);
+        verify(pointHistoryTable).insert(USER_ID, 50L, TransactionType.USE, UPDATE_MILLIS);
+    }
+
     private PointHistory createPointHistory(long id, long amount, TransactionType type) {
         return new PointHistory(id, USER_ID, amount, type, System.currentTimeMillis());
     }
@@ -1,5 +1,6 @@
 package io.hhplus.tdd.point;
 
+import io.hhplus.tdd.exception.OptimisticLockConflictException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -10,13 +11,19 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 
 @SpringBootTest
@@ -207,6 +214,190 @@ class PointTest {
         emptyUserPoint(secondUserId, secondUserPoint.point());
     }
 
+    @DisplayName("동시성 환경에서 낙관적 모드로 2명이 10개의 쓰레드를 통해 충전했을 때 반영된 충전은 빠짐 없이 잔고와 내역에 남는다")
+    @Test
+    void testConcurrentChargePointOptimisticMode() throws InterruptedException {
+        // given
+        final long firstUserId = 7L;
+        final long secondUserId = 8L;
+        final int chargeTimes = 5;
+        final long chargeAmount = 100L;
+        final int threadCount = chargeTimes * 2;
+        final ConcurrencyMode previousMode = pointService.getOptimisticLockMetrics().mode();
+        pointService.changeConcurrencyMode(ConcurrencyMode.OPTIMISTIC);
+
+        try {
+            // when
+            final AtomicInteger firstUserCharged = new AtomicInteger();
+            final AtomicInteger secondUserCharged = new AtomicInteger();
+            ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+            CountDownLatch latch = new CountDownLatch(threadCount);
+
+            for (int i = 0; i < threadCount; i++) {
+                final boolean first = i % 2 == 0;
+                executorService.submit(() -> {
+                    try {
+                        pointService.chargePoint(first ? firstUserId : secondUserId, chargeAmount);
+                        (first ? firstUserCharged : secondUserCharged).incrementAndGet();
+                    } catch (OptimisticLockConflictException ignored) {
+                        // 재시도 한도를 넘은 충전은 반영되지 않으므로 잔고 검증에서 제외한다.
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+            }
+            latch.await();
+            executorService.shutdown();
+
+            // then
+            UserPoint firstUserPoint = pointService.getPoint(firstUserId);
+            UserPoint secondUserPoint = pointService.getPoint(secondUserId);
+            assertTrue(firstUserCharged.get() > 0);
+            assertTrue(secondUserCharged.get() > 0);
+            assertEquals(chargeAmount * firstUserCharged.get(), firstUserPoint.point());
+            assertEquals(chargeAmount * secondUserCharged.get(), secondUserPoint.point());
+            assertEquals(firstUserCharged.get(), pointService.getPointHistories(firstUserId).size());
+            assertEquals(secondUserCharged.get(), pointService.getPointHistories(secondUserId).size());
+
+            emptyUserPoint(firstUserId, firstUserPoint.point());
+            emptyUserPoint(secondUserId, secondUserPoint.point());
+        } finally {
+            pointService.changeConcurrencyMode(previousMode);
+        }
+    }
+
+    @DisplayName("여러 유저의 작업을 한 번에 일괄 처리했을 때 모든 잔고와 내역이 누락 없이 반영된다")
+    @Test
+    void testBulkUpdatePointMultipleUsers() {
+        // given
+        final List<Long> userIds = LongStream.rangeClosed(101L, 110L).boxed().toList();
+        final List<PointOperation> operations = new ArrayList<>();
+        for (Long userId : userIds) {
+            operations.add(new PointOperation(userId, TransactionType.CHARGE, 100L));
+        }
+        for (Long userId : userIds) {
+            operations.add(new PointOperation(userId, TransactionType.USE, 30L));
+        }
+        for (Long userId : userIds) {
+            operations.add(new PointOperation(userId, TransactionType.CHARGE, 50L));
+        }
+
+        // when
+        final List<PointBulkResult> results = pointService.bulkUpdatePoint(operations);
+
+        // then
+        assertEquals(operations.size(), results.size());
+        results.forEach(result -> assertNull(result.error()));
+
+        final List<PointHistory> histories = userIds.stream()
+                .flatMap(userId -> pointService.getPointHistories(userId).stream())
+                .toList();
+        final Set<Long> historyIds = histories.stream().map(PointHistory::id).collect(Collectors.toSet());
+        assertEquals(operations.size(), histories.size());
+        assertEquals(histories.size(), historyIds.size());
+
+        for (Long userId : userIds) {
+            assertEquals(100L - 30L + 50L, pointService.getPoint(userId).point());
+            assertEquals(3, pointService.getPointHistories(userId).size());
+            emptyUserPoint(userId, pointService.getPoint(userId).point());
+        }
+    }
+
+    @DisplayName("일괄 처리 중 같은 유저에게 단건 충전이 동시에 들어와도 일괄 처리 작업은 요청 순서대로 반영된다")
+    @Test
+    void testBulkUpdatePointKeepsOrderWithConcurrentCharges() throws InterruptedException {
+        // given
+        final long targetUserId = 111L;
+        final long otherUserId = 112L;
+        final int singleChargeTimes = 5;
+        final long singleChargeAmount = 1L;
+        final List<PointOperation> operations = List.of(
+                new PointOperation(targetUserId, TransactionType.CHARGE, 100L),
+                new PointOperation(otherUserId, TransactionType.CHARGE, 100L),
+                new PointOperation(targetUserId, TransactionType.USE, 70L),
+                new PointOperation(otherUserId, TransactionType.USE, 20L),
+                new PointOperation(targetUserId, TransactionType.CHARGE, 40L),
+                new PointOperation(targetUserId, TransactionType.USE, 60L)
+        );
+
+        final int threadCount = singleChargeTimes * 2;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            final long userId = i % 2 == 0 ? targetUserId : otherUserId;
+            executorService.submit(() -> {
+                try {
+                    pointService.chargePoint(userId, singleChargeAmount);
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        final List<PointBulkResult> results = pointService.bulkUpdatePoint(operations);
+        latch.await();
+        executorService.shutdown();
+
+        // then
+        results.forEach(result -> assertNull(result.error()));
+        assertEquals(results.get(0).userPoint().point() - 70L, results.get(2).userPoint().point());
+        assertEquals(results.get(2).userPoint().point() + 40L, results.get(4).userPoint().point());
+        assertEquals(results.get(4).userPoint().point() - 60L, results.get(5).userPoint().point());
+
+        final List<PointHistory> targetBulkHistories = pointService.getPointHistories(targetUserId).stream()
+                .filter(history -> history.amount() != singleChargeAmount)
+                .toList();
+        assertEquals(List.of(100L, 70L, 40L, 60L), targetBulkHistories.stream().map(PointHistory::amount).toList());
+        assertEquals(
+                List.of(TransactionType.CHARGE, TransactionType.USE, TransactionType.CHARGE, TransactionType.USE),
+                targetBulkHistories.stream().map(PointHistory::type).toList());
+
+        UserPoint targetUserPoint = pointService.getPoint(targetUserId);
+        UserPoint otherUserPoint = pointService.getPoint(otherUserId);
+        assertEquals(100L - 70L + 40L - 60L + singleChargeAmount * singleChargeTimes, targetUserPoint.point());
+        assertEquals(100L - 20L + singleChargeAmount * singleChargeTimes, otherUserPoint.point());
+
+        emptyUserPoint(targetUserId, targetUserPoint.point());
+        emptyUserPoint(otherUserId, otherUserPoint.point());
+    }
+
+    @DisplayName("여러 유저의 작업을 일괄 처리하면 같은 작업을 하나씩 요청한 것보다 오래 걸리지 않는다")
+    @Test
+    void testBulkUpdatePointNotSlowerThanSingleCalls() {
+        // given
+        final List<Long> bulkUserIds = LongStream.rangeClosed(121L, 126L).boxed().toList();
+        final List<Long> singleUserIds = LongStream.rangeClosed(131L, 136L).boxed().toList();
+        final List<PointOperation> operations = new ArrayList<>();
+        for (Long userId : bulkUserIds) {
+            operations.add(new PointOperation(userId, TransactionType.CHARGE, 100L));
+            operations.add(new PointOperation(userId, TransactionType.USE, 30L));
+        }
+
+        // when
+        final long singleStartNanos = System.nanoTime();
+        for (Long userId : singleUserIds) {
+            pointService.chargePoint(userId, 100L);
+            pointService.usePoint(userId, 30L);
+        }
+        final long singleElapsedNanos = System.nanoTime() - singleStartNanos;
+
+        final long bulkStartNanos = System.nanoTime();
+        final List<PointBulkResult> results = pointService.bulkUpdatePoint(operations);
+        final long bulkElapsedNanos = System.nanoTime() - bulkStartNanos;
+
+        // then
+        results.forEach(result -> assertNull(result.error()));
+        assertTrue(bulkElapsedNanos <= singleElapsedNanos);
+
+        for (Long userId : bulkUserIds) {
+            emptyUserPoint(userId, pointService.getPoint(userId).point());
+        }
+        for (Long userId : singleUserIds) {
+            emptyUserPoint(userId, pointService.getPoint(userId).point());
+        }
+    }
+
     private void emptyUserPoint(Long userId, Long remainingPoint) {
         pointService.usePoint(userId, remainingPoint);
     }